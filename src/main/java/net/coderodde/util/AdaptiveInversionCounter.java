@@ -0,0 +1,164 @@
+package net.coderodde.util;
+
+import java.util.Comparator;
+import java.util.Objects;
+import static net.coderodde.util.Utils.NATURAL_ORDER;
+import static net.coderodde.util.Utils.checkIndices;
+
+/**
+ * This class implements an inversion counter that probes the input array range
+ * and dispatches to the inversion counting algorithm that is expected to be
+ * the fastest on it. Just like the other counters, it sorts the input range.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Dec 30, 2017)
+ */
+public final class AdaptiveInversionCounter {
+
+    /**
+     * Enumerates the algorithms this counter may dispatch to.
+     */
+    public enum Algorithm {
+
+        /**
+         * Quadratic insertion sort that counts the element shifts. Used on
+         * tiny ranges.
+         */
+        INSERTION_SORT,
+
+        /**
+         * Natural mergesort. Used on ranges that look presorted.
+         */
+        NATURAL_MERGESORT,
+
+        /**
+         * Plain top-down mergesort. Used on all other ranges.
+         */
+        MERGESORT
+    }
+
+    /**
+     * Ranges shorter than this are processed via insertion sort.
+     */
+    static final int INSERTION_SORT_THRESHOLD = 32;
+
+    /**
+     * The maximum number of adjacent element pairs to sample while estimating
+     * the number of runs.
+     */
+    static final int MAXIMUM_SAMPLES = 64;
+
+    /**
+     * If at most one out of this many sampled adjacent pairs is a descent, the
+     * range is considered presorted.
+     */
+    static final int PRESORTED_RATIO = 8;
+
+    public static <T> int count(T[] array,
+                                int fromIndex,
+                                int toIndex,
+                                Comparator<? super T> comparator) {
+        switch (chooseAlgorithm(array, fromIndex, toIndex, comparator)) {
+            case INSERTION_SORT:
+                return insertionSortCount(array,
+                                          fromIndex,
+                                          toIndex,
+                                          comparator);
+
+            case NATURAL_MERGESORT:
+                return NaturalMergesortInversionCounter.count(array,
+                                                              fromIndex,
+                                                              toIndex,
+                                                              comparator);
+
+            default:
+                return MergesortInversionCounter.count(array,
+                                                       fromIndex,
+                                                       toIndex,
+                                                       comparator);
+        }
+    }
+
+    public static <T> int count(T[] array, int fromIndex, int toIndex) {
+        return count(array, fromIndex, toIndex, NATURAL_ORDER);
+    }
+
+    public static <T> int count(T[] array, Comparator<? super T> comparator) {
+        Objects.requireNonNull(array);
+        return count(array, 0, array.length, comparator);
+    }
+
+    public static <T> int count(T[] array) {
+        return count(array, NATURAL_ORDER);
+    }
+
+    /**
+     * Returns the algorithm {@link #count(Object[], int, int, Comparator)}
+     * would use on the given array range. Does not modify the array, so it
+     * may be used for auditing and benchmarking the dispatch decision.
+     *
+     * @param <T>        the array component type.
+     * @param array      the array holding the range.
+     * @param fromIndex  the starting, inclusive index of the range.
+     * @param toIndex    the ending, exclusive index of the range.
+     * @param comparator the array component comparator.
+     * @return the chosen algorithm.
+     */
+    public static <T> Algorithm chooseAlgorithm(
+            T[] array,
+            int fromIndex,
+            int toIndex,
+            Comparator<? super T> comparator) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(comparator);
+        checkIndices(array.length, fromIndex, toIndex);
+        int rangeLength = toIndex - fromIndex;
+
+        if (rangeLength < INSERTION_SORT_THRESHOLD) {
+            return Algorithm.INSERTION_SORT;
+        }
+
+        int pairs = rangeLength - 1;
+        int samples = Math.min(pairs, MAXIMUM_SAMPLES);
+        int descents = 0;
+
+        for (int sample = 0; sample < samples; ++sample) {
+            // Spread the sampled pairs evenly over the range.
+            int index = fromIndex + (int)((long) sample * pairs / samples);
+
+            if (comparator.compare(array[index], array[index + 1]) > 0) {
+                descents++;
+            }
+        }
+
+        return descents * PRESORTED_RATIO <= samples ?
+                Algorithm.NATURAL_MERGESORT :
+                Algorithm.MERGESORT;
+    }
+
+    private static <T> int insertionSortCount(
+            T[] array,
+            int fromIndex,
+            int toIndex,
+            Comparator<? super T> comparator) {
+        int inversions = 0;
+
+        for (int i = fromIndex + 1; i < toIndex; ++i) {
+            T element = array[i];
+            int j = i - 1;
+
+            while (j >= fromIndex
+                    && comparator.compare(array[j], element) > 0) {
+                array[j + 1] = array[j];
+                --j;
+            }
+
+            inversions += i - 1 - j;
+            array[j + 1] = element;
+        }
+
+        return inversions;
+    }
+
+    private AdaptiveInversionCounter() {}
+}
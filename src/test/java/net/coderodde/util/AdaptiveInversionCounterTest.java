@@ -0,0 +1,59 @@
+package net.coderodde.util;
+
+import net.coderodde.util.AdaptiveInversionCounter.Algorithm;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * This unit test tests the correctness of the adaptive inversion counter.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Dec 30, 2017)
+ */
+public class AdaptiveInversionCounterTest
+        extends AbstractInversionCounterTest {
+
+    private static final int LENGTH = 1000;
+
+    public AdaptiveInversionCounterTest() {
+        super(AdaptiveInversionCounter::count);
+    }
+
+    @Test
+    public void testChoosesInsertionSortOnTinyRange() {
+        Integer[] array = { 3, 1, 2 };
+        assertEquals(Algorithm.INSERTION_SORT,
+                     AdaptiveInversionCounter.chooseAlgorithm(
+                             array, 0, array.length, Integer::compareTo));
+        assertEquals(2, AdaptiveInversionCounter.count(array));
+        assertArrayEquals(new Integer[]{ 1, 2, 3 }, array);
+    }
+
+    @Test
+    public void testChoosesNaturalMergesortOnPresortedRange() {
+        Integer[] array = new Integer[LENGTH];
+
+        for (int i = 0; i < LENGTH; ++i) {
+            array[i] = i;
+        }
+
+        assertEquals(Algorithm.NATURAL_MERGESORT,
+                     AdaptiveInversionCounter.chooseAlgorithm(
+                             array, 0, array.length, Integer::compareTo));
+    }
+
+    @Test
+    public void testChoosesMergesortOnDescendingRange() {
+        Integer[] array = new Integer[LENGTH];
+
+        for (int i = 0; i < LENGTH; ++i) {
+            array[i] = LENGTH - i;
+        }
+
+        assertEquals(Algorithm.MERGESORT,
+                     AdaptiveInversionCounter.chooseAlgorithm(
+                             array, 0, array.length, Integer::compareTo));
+        assertEquals(LENGTH * (LENGTH - 1) / 2,
+                     AdaptiveInversionCounter.count(array));
+    }
+}